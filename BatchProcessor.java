@@ -0,0 +1,191 @@
+package uk.ac.ed.inf;
+
+import uk.ac.ed.inf.ilp.constant.*;
+import uk.ac.ed.inf.ilp.data.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Processes the orders of a range of dates as a pipeline of four stages: fetch, validate, assign and write.
+ * Each stage runs on its own thread and hands days to the next through a bounded queue,
+ * so fetching the orders of one day overlaps with the work on the previous day.
+ * Restaurants, no-fly zones, the central region and the routes must already be loaded.
+ */
+public class BatchProcessor {
+    // at most this many days wait between two stages
+    private static final int QUEUE_CAPACITY = 2;
+
+    private final String baseURL;
+    private final ArrayList<Restaurant> restaurants;
+    private final Route[] routesCollection;
+    private final AtomicInteger numberOfFailedDays = new AtomicInteger();
+
+    /**
+     * @param baseURL the base address of the REST service, ending with "/"
+     * @param restaurants the restaurants the routes were computed for
+     * @param routesCollection the forth and back route of each restaurant, in the same order as restaurants
+     */
+    public BatchProcessor(String baseURL, ArrayList<Restaurant> restaurants, Route[] routesCollection) {
+        this.baseURL = baseURL;
+        this.restaurants = restaurants;
+        this.routesCollection = routesCollection;
+    }
+
+    /**
+     * The state of one day as it moves through the pipeline.
+     */
+    private static class Day {
+        // marks the end of the range; never processed
+        static final Day END = new Day(null);
+
+        final String orderDate;
+        Order[] orders;
+        Route[] paths;
+
+        Day(String orderDate) {
+            this.orderDate = orderDate;
+        }
+    }
+
+    /**
+     * Processes every date from start to end, both inclusive, and returns when all result files are written.
+     * A day that fails in any stage is reported and skipped; the rest of the range is still processed.
+     * @param start the first date
+     * @param end the last date
+     * @return the number of days whose result files could not be produced
+     * @throws InterruptedException if interrupted while waiting for the stages to finish
+     */
+    public int process(LocalDate start, LocalDate end) throws InterruptedException {
+        BlockingQueue<Day> fetched = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Day> validated = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        BlockingQueue<Day> assigned = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+        numberOfFailedDays.set(0);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CompletionService<Void> stages = new ExecutorCompletionService<>(executor);
+        List<Future<Void>> futures = List.of(
+                stages.submit(() -> fetch(start, end, fetched), null),
+                stages.submit(() -> validate(fetched, validated), null),
+                stages.submit(() -> assign(validated, assigned), null),
+                stages.submit(() -> write(assigned), null));
+        try {
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    stages.take().get();
+                } catch (ExecutionException e) {
+                    // a stage died outside of a single day, so the others could wait on it forever
+                    System.err.println("A batch stage failed; cancelling the batch.");
+                    e.getCause().printStackTrace();
+                    for (Future<Void> future : futures) {
+                        future.cancel(true);
+                    }
+                    return Math.max(numberOfFailedDays.get(), 1);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return numberOfFailedDays.get();
+    }
+
+    private void fetch(LocalDate start, LocalDate end, BlockingQueue<Day> out) {
+        try {
+            for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                Day day = new Day(date.toString());
+                try {
+                    URL orderOfDateURL = new URL(baseURL + DATA.ORDERS_URL + day.orderDate);
+                    day.orders = Main.ORDER_MAPPER.readValue(orderOfDateURL, Order[].class);
+                } catch (IOException | RuntimeException e) {
+                    // skip this day only; the rest of the range can still be processed
+                    skipDay(day, "fetch the orders", e);
+                    continue;
+                }
+                out.put(day);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            forwardEnd(out);
+        }
+    }
+
+    private void validate(BlockingQueue<Day> in, BlockingQueue<Day> out) {
+        OrderValidator orderValidator = new OrderValidator();
+        try {
+            for (Day day = in.take(); day != Day.END; day = in.take()) {
+                try {
+                    for (Order order : day.orders) {
+                        orderValidator.validateOrder(order, DATA.RESTAURANTS);
+                        if (order.getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
+                            order.setOrderStatus(OrderStatus.DELIVERED);
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    skipDay(day, "validate the orders", e);
+                    continue;
+                }
+                out.put(day);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            forwardEnd(out);
+        }
+    }
+
+    private void assign(BlockingQueue<Day> in, BlockingQueue<Day> out) {
+        try {
+            for (Day day = in.take(); day != Day.END; day = in.take()) {
+                try {
+                    day.paths = Main.assignPaths(day.orders, restaurants, routesCollection);
+                } catch (RuntimeException e) {
+                    skipDay(day, "assign the routes", e);
+                    continue;
+                }
+                out.put(day);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            forwardEnd(out);
+        }
+    }
+
+    private void write(BlockingQueue<Day> in) {
+        try {
+            for (Day day = in.take(); day != Day.END; day = in.take()) {
+                try {
+                    Main.writeResultFiles(day.orderDate, day.orders, day.paths);
+                } catch (IOException | RuntimeException e) {
+                    skipDay(day, "write the result files", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void skipDay(Day day, String action, Exception e) {
+        numberOfFailedDays.incrementAndGet();
+        System.err.println("Failed to " + action + " of " + day.orderDate);
+        e.printStackTrace();
+    }
+
+    /**
+     * Tells the next stage there are no more days, however this stage ended.
+     * If this stage was interrupted the batch is being cancelled, so the next stage is interrupted too.
+     */
+    private static void forwardEnd(BlockingQueue<Day> out) {
+        try {
+            out.put(Day.END);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -11,6 +11,7 @@ public final class DATA {
     public final static String ORDERS_URL = "orders/";
     public final static LngLat APPLETON_TOWER = new LngLat(-3.186874, 55.944494);
     public static NamedRegion CENTRAL_REGION;
+    public static NamedRegion[] NO_FLY_REGIONS;     // as given by the REST service
     public static ArrayList<NoFlyZone> NO_FLY_ZONES;
     public static Restaurant[] RESTAURANTS;
     public static Order[] ORDERS;
@@ -1,8 +1,11 @@
 package uk.ac.ed.inf;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.*;
-import com.mapbox.geojson.*;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
 import uk.ac.ed.inf.ilp.constant.*;
 import uk.ac.ed.inf.ilp.data.*;
@@ -10,19 +13,30 @@ import uk.ac.ed.inf.ilp.data.*;
 import java.io.*;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.*;
 
 public class Main {
+    // reads the orders of a day; an ObjectMapper is thread-safe and expensive to build, so one is shared
+    static final ObjectMapper ORDER_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule());
 
     public static void main(String[] args) throws IOException {
         // run-time passed-in arguments are a data, YYYY-MM-DD, and a base URL
-        if (args.length != 2){
+        // or, in batch mode, a start date, an end date (inclusive) and a base URL
+        if (args.length != 2 && args.length != 3){
             System.err.println("Testclient Base-URL Echo-Parameter");
             System.err.println("you must supply the base address of the ILP REST Service\n" +
                     " e.g. http://restservice.somewhere and a string to be echoed");
+            System.err.println("for a range of dates, supply a start date, an end date and the base address");
             System.exit(1);
         }
 
+        if (args.length == 3) {
+            runBatch(args[0], args[1], args[2]);
+            return;
+        }
+
         try {
             String baseURL = args[1];
             String orderDate = args[0];
@@ -31,15 +45,10 @@ public class Main {
                 baseURL += "/";
             }
 
-            URL centralRegionURL = new URL(baseURL + DATA.CENTRAL_AREA_URL);
-            URL noFlyZonesURL = new URL(baseURL + DATA.NO_FLY_ZONES_URL);
-            URL restaurantsURL = new URL(baseURL + DATA.RESTAURANTS_URL);
             URL orderOfDateURL = new URL(baseURL + DATA.ORDERS_URL + orderDate);
 
-            DATA.RESTAURANTS = new ObjectMapper().readValue(restaurantsURL, Restaurant[].class);
-            DATA.ORDERS = new ObjectMapper().registerModule(new JSR310Module()).readValue(orderOfDateURL, Order[].class);
-            DATA.CENTRAL_REGION = new ObjectMapper().readValue(centralRegionURL, NamedRegion.class);
-            new LngLatHandler().initialiseNoFlyZones(new ObjectMapper().readValue(noFlyZonesURL, NamedRegion[].class));
+            loadSharedData(baseURL);
+            DATA.ORDERS = ORDER_MAPPER.readValue(orderOfDateURL, Order[].class);
 
         } catch (MalformedURLException e) {
             System.err.println("URL Invalid");
@@ -50,7 +59,6 @@ public class Main {
         }
 
         OrderValidator orderValidator = new OrderValidator();
-        int numberOfValidOrders = 0;
         ArrayList<Restaurant> restaurantsInValidOrder = new ArrayList<>();
         for (int i = 0; i < DATA.ORDERS.length; i++) {
             Order thisOrder = DATA.ORDERS[i];
@@ -58,76 +66,155 @@ public class Main {
             if (!thisOrder.getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
                 continue;
             }
-            numberOfValidOrders ++;
             if (!restaurantsInValidOrder.contains(getRestaurantOfAnOrder(thisOrder))) {
                 restaurantsInValidOrder.add(getRestaurantOfAnOrder(thisOrder));
             }
             thisOrder.setOrderStatus(OrderStatus.DELIVERED);
         }
 
-        Node[][] routesCollection = new Node[restaurantsInValidOrder.size()][];
-        for (int i = 0; i < restaurantsInValidOrder.size(); i++) {
-            RouteFinder router = new RouteFinder(DATA.APPLETON_TOWER, restaurantsInValidOrder.get(i).location());
-            routesCollection[i] = getForthAndBackRoute(router.getRoute());
+        Route[] routesCollection = findRoutes(restaurantsInValidOrder);
+        Route[] paths = assignPaths(DATA.ORDERS, restaurantsInValidOrder, routesCollection);
+        writeResultFiles(args[0], DATA.ORDERS, paths);
+    }
+
+    /**
+     * Runs every date from startDate to endDate, both inclusive, in one process.
+     * Restaurants, no-fly zones, the central region and the routes are loaded and computed once.
+     */
+    private static void runBatch(String startDate, String endDate, String baseURL) {
+        if (!baseURL.endsWith("/")) {
+            baseURL += "/";
         }
 
-        Node[][] paths = new Node[DATA.ORDERS.length][];
-        for (int i = 0; i < DATA.ORDERS.length; i++) {
-            Order thisOrder = DATA.ORDERS[i];
+        LocalDate start = null;
+        LocalDate end = null;
+        try {
+            start = LocalDate.parse(startDate);
+            end = LocalDate.parse(endDate);
+            if (end.isBefore(start)) {
+                System.err.println("Date Invalid");
+                System.err.println("the end date must not be before the start date");
+                System.exit(1);
+            }
+            loadSharedData(baseURL);
+        } catch (DateTimeParseException e) {
+            System.err.println("Date Invalid");
+            e.printStackTrace();
+            System.exit(1);
+        } catch (MalformedURLException e) {
+            System.err.println("URL Invalid");
+            e.printStackTrace();
+            System.exit(1);
+        } catch (IOException e) {
+            e.printStackTrace();
+            System.exit(1);
+        }
+
+        // every restaurant may appear in some day of the range, so find all routes up front
+        ArrayList<Restaurant> allRestaurants = new ArrayList<>(Arrays.asList(DATA.RESTAURANTS));
+        Route[] routesCollection = findRoutes(allRestaurants);
+
+        try {
+            int numberOfFailedDays = new BatchProcessor(baseURL, allRestaurants, routesCollection).process(start, end);
+            if (numberOfFailedDays > 0) {
+                System.err.println(numberOfFailedDays + " day(s) failed.");
+                System.exit(1);
+            }
+        } catch (InterruptedException e) {
+            System.err.println("Batch interrupted.");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Loads the data that does not depend on the order date into DATA.
+     */
+    static void loadSharedData(String baseURL) throws IOException {
+        URL centralRegionURL = new URL(baseURL + DATA.CENTRAL_AREA_URL);
+        URL noFlyZonesURL = new URL(baseURL + DATA.NO_FLY_ZONES_URL);
+        URL restaurantsURL = new URL(baseURL + DATA.RESTAURANTS_URL);
+
+        DATA.RESTAURANTS = new ObjectMapper().readValue(restaurantsURL, Restaurant[].class);
+        DATA.CENTRAL_REGION = new ObjectMapper().readValue(centralRegionURL, NamedRegion.class);
+        DATA.NO_FLY_REGIONS = new ObjectMapper().readValue(noFlyZonesURL, NamedRegion[].class);
+        new LngLatHandler().initialiseNoFlyZones(DATA.NO_FLY_REGIONS);
+    }
+
+    static Route[] findRoutes(ArrayList<Restaurant> restaurants) {
+        Route[] routesCollection = new Route[restaurants.size()];
+        for (int i = 0; i < restaurants.size(); i++) {
+            RouteFinder router = new RouteFinder(DATA.APPLETON_TOWER, restaurants.get(i).location());
+            Node[] route = getForthAndBackRoute(router.getRoute());
+            assert RouteChecker.isValidRoute(route, DATA.APPLETON_TOWER, restaurants.get(i).location(), DATA.NO_FLY_REGIONS);
+            routesCollection[i] = new Route(route);
+        }
+        return routesCollection;
+    }
+
+    /**
+     * Points every valid order at the shared route of its restaurant; invalid orders are left null.
+     */
+    static Route[] assignPaths(Order[] orders, ArrayList<Restaurant> restaurants, Route[] routesCollection) {
+        Route[] paths = new Route[orders.length];
+        for (int i = 0; i < orders.length; i++) {
+            Order thisOrder = orders[i];
             if (!thisOrder.getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
                 continue;
             }
-            paths[i] = getRouteForThisRestaurant(getRestaurantOfAnOrder(thisOrder), restaurantsInValidOrder, routesCollection);
+            paths[i] = getRouteForThisRestaurant(getRestaurantOfAnOrder(thisOrder), restaurants, routesCollection);
         }
+        return paths;
+    }
+
+    static void writeResultFiles(String orderDate, Order[] orders, Route[] paths) throws IOException {
+        writeResultFiles(new File("resultfiles"), orderDate, orders, paths);
+    }
+
+    static void writeResultFiles(File dir, String orderDate, Order[] orders, Route[] paths) throws IOException {
+        dir.mkdir();
+        ObjectMapper mapper = new ObjectMapper();
 
-        List<Feature> listOfRoutes = new ArrayList<>();
-        for(Node[] nodes : paths) {
-            if (nodes != null) {
-                ArrayList<Point> routeCoordinates = new ArrayList<>();
-                for (Node node : nodes) {
-                    routeCoordinates.add(Point.fromLngLat(node.lngLat.lng(), node.lngLat.lat()));
+        // orders of the same restaurant share the rendered Feature of its route
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(
+                new File(dir, "drone-" + orderDate + ".geojson"), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("type", "FeatureCollection");
+            generator.writeArrayFieldStart("features");
+            for (Route route : paths) {
+                if (route != null) {
+                    generator.writeRawValue(route.getFeatureJson());
                 }
-                listOfRoutes.add(Feature.fromGeometry(LineString.fromLngLats(routeCoordinates)));
             }
+            generator.writeEndArray();
+            generator.writeEndObject();
         }
-        FeatureCollection allRoutes = FeatureCollection.fromFeatures(listOfRoutes);
-
-        File dir = new File("resultfiles");
-        dir.mkdir();
-        BufferedWriter geojsonWriter = new BufferedWriter(new FileWriter(new File(dir, "drone-" + args[0] + ".geojson")));
-        geojsonWriter.write(allRoutes.toJson());
-        geojsonWriter.close();
 
-        DeliveriesJson[] deliveriesJsons = new DeliveriesJson[DATA.ORDERS.length];
+        DeliveriesJson[] deliveriesJsons = new DeliveriesJson[orders.length];
         for (int i = 0; i < deliveriesJsons.length; i++) {
-            Order order = DATA.ORDERS[i];
+            Order order = orders[i];
             deliveriesJsons[i] = new DeliveriesJson(order.getOrderNo(), order.getOrderStatus(),
                     order.getOrderValidationCode(), order.getPriceTotalInPence());
         }
-        BufferedWriter deliveriesWriter = new BufferedWriter(new FileWriter(new File(dir, "deliveries-" + args[0] + ".json")));
-        deliveriesWriter.write(new ObjectMapper().writer().writeValueAsString(deliveriesJsons));
-        deliveriesWriter.close();
+        mapper.writeValue(new File(dir, "deliveries-" + orderDate + ".json"), deliveriesJsons);
 
-        FlightpathJson[][] flightpathJsons = new FlightpathJson[numberOfValidOrders][];
-        int flightpathJsonsIndex = 0;
-        for (int i = 0; i < DATA.ORDERS.length; i++) {
-            if (DATA.ORDERS[i].getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
-                String orderNo = DATA.ORDERS[i].getOrderNo();
-                flightpathJsons[flightpathJsonsIndex] = new FlightpathJson[paths[i].length];
-                for (int j = 0; j < paths[i].length; j++) {
-                    flightpathJsons[flightpathJsonsIndex][j] = new FlightpathJson(orderNo,
-                            (float)paths[i][j].parentLnglat.lng(),
-                            (float)paths[i][j].parentLnglat.lat(),
-                            paths[i][j].angle,
-                            (float)paths[i][j].lngLat.lng(),
-                            (float)paths[i][j].lngLat.lat());
+        // stream the flightpath one move at a time rather than building every order's moves first
+        ObjectWriter moveWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(
+                new File(dir, "flightpath-" + orderDate + ".json"), JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (int i = 0; i < orders.length; i++) {
+                if (paths[i] == null) {
+                    continue;
+                }
+                String orderNo = orders[i].getOrderNo();
+                generator.writeStartArray();
+                for (int j = 0; j < paths[i].numberOfMoves(); j++) {
+                    moveWriter.writeValue(generator, paths[i].getMove(orderNo, j));
                 }
-                flightpathJsonsIndex++;
+                generator.writeEndArray();
             }
+            generator.writeEndArray();
         }
-        BufferedWriter flightPathWriter = new BufferedWriter(new FileWriter(new File(dir, "flightpath-" + args[0] + ".json")));
-        flightPathWriter.write(new ObjectMapper().writer().writeValueAsString(flightpathJsons));
-        flightPathWriter.close();
     }
 
     private static Restaurant getRestaurantOfAnOrder(Order order) {
@@ -142,7 +229,7 @@ public class Main {
         return null;    // should never be reached with correct implementation
     }
 
-    private static Node[] getForthAndBackRoute(ArrayList<Node> forthPath) {
+    static Node[] getForthAndBackRoute(ArrayList<Node> forthPath) {
         // forth path does not contain 999 hover at the restaurant
         ArrayList<Node> path = new ArrayList<>(forthPath);
         LngLat destinationLngLat = forthPath.get(forthPath.size() - 1).lngLat;
@@ -155,7 +242,7 @@ public class Main {
         return path.toArray(new Node[1]);
     }
 
-    private static Node[] getRouteForThisRestaurant(Restaurant thisRestaurant, ArrayList<Restaurant> restaurantsInValidOrder, Node[][] routesCollection) {
+    private static Route getRouteForThisRestaurant(Restaurant thisRestaurant, ArrayList<Restaurant> restaurantsInValidOrder, Route[] routesCollection) {
         int restaurantIndex = 0;
         for (int i = 0; i < restaurantsInValidOrder.size(); i++) {
             if (thisRestaurant.equals(restaurantsInValidOrder.get(i))) {
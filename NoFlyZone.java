@@ -1,8 +1,107 @@
 package uk.ac.ed.inf;
 
 import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
 
-import java.util.ArrayList;
+/**
+ * A no-fly zone stored as a structure of arrays so that the point-in-polygon test runs over contiguous doubles.
+ * Edge i runs from (x0[i], y0[i]) to (x1[i], y1[i]), x being the longitude and y the latitude.
+ * dxPerDy[i] is the change in x along edge i per unit of y, 0 for a horizontal edge.
+ * (vx[i], vy[i]) is vertex i of the zone.
+ */
+public final class NoFlyZone {
+    private final double[] x0;
+    private final double[] y0;
+    private final double[] x1;
+    private final double[] y1;
+    private final double[] dxPerDy;
+    private final double[] vx;
+    private final double[] vy;
 
-public record NoFlyZone(Edge[] edges, LngLat[] vertices) {
+    private NoFlyZone(double[] x0, double[] y0, double[] x1, double[] y1, double[] dxPerDy,
+                      double[] vx, double[] vy) {
+        this.x0 = x0;
+        this.y0 = y0;
+        this.x1 = x1;
+        this.y1 = y1;
+        this.dxPerDy = dxPerDy;
+        this.vx = vx;
+        this.vy = vy;
+    }
+
+    /**
+     * Builds the zone from a closed polygon, i.e., one whose last vertex repeats the first.
+     * @param region the no-fly zone as given by the REST service
+     * @return the zone with its edge coefficients precomputed
+     */
+    public static NoFlyZone fromRegion(NamedRegion region) {
+        LngLat[] vertices = region.vertices();
+        int numberOfEdges = vertices.length - 1;
+        double[] x0 = new double[numberOfEdges];
+        double[] y0 = new double[numberOfEdges];
+        double[] x1 = new double[numberOfEdges];
+        double[] y1 = new double[numberOfEdges];
+        double[] dxPerDy = new double[numberOfEdges];
+        for (int i = 0; i < numberOfEdges; i++) {
+            x0[i] = vertices[i].lng();
+            y0[i] = vertices[i].lat();
+            x1[i] = vertices[i + 1].lng();
+            y1[i] = vertices[i + 1].lat();
+            // a horizontal edge never straddles a position's latitude, so its coefficient is never used
+            dxPerDy[i] = (y1[i] == y0[i]) ? 0 : (x1[i] - x0[i]) / (y1[i] - y0[i]);
+        }
+
+        double[] vx = new double[vertices.length];
+        double[] vy = new double[vertices.length];
+        for (int i = 0; i < vertices.length; i++) {
+            vx[i] = vertices[i].lng();
+            vy[i] = vertices[i].lat();
+        }
+        return new NoFlyZone(x0, y0, x1, y1, dxPerDy, vx, vy);
+    }
+
+    /**
+     * Checks if a position is inside the zone or on its boundary.
+     * Casts a ray to the right and counts the edges it crosses; separately checks if the position lies on an edge,
+     * i.e., is collinear with it and within its bounding box. Collinearity is tested exactly,
+     * so a position on a slanted edge may be missed by rounding; on horizontal and vertical edges it never is.
+     * The loop has no data-dependent branches so the JIT can unroll and vectorise it.
+     * @param x the longitude of the position
+     * @param y the latitude of the position
+     * @return if the position is inside the zone or on its boundary
+     */
+    public boolean contains(double x, double y) {
+        int numberOfCrosses = 0;
+        boolean isOnEdge = false;
+        for (int i = 0; i < x0.length; i++) {
+            // half-open in y so that a ray through a vertex is counted once
+            boolean straddles = (y0[i] <= y) != (y1[i] <= y);
+            double xOfEdgeAtY = x0[i] + (y - y0[i]) * dxPerDy[i];
+            numberOfCrosses += (straddles & x < xOfEdgeAtY) ? 1 : 0;
+
+            double crossProduct = (x1[i] - x0[i]) * (y - y0[i]) - (y1[i] - y0[i]) * (x - x0[i]);
+            isOnEdge |= crossProduct == 0 &
+                    x >= Math.min(x0[i], x1[i]) & x <= Math.max(x0[i], x1[i]) &
+                    y >= Math.min(y0[i], y1[i]) & y <= Math.max(y0[i], y1[i]);
+        }
+        return isOnEdge | (numberOfCrosses & 1) != 0;
+    }
+
+    /**
+     * Checks if a position is strictly closer than a given distance to any vertex of the zone.
+     * @param x the longitude of the position
+     * @param y the latitude of the position
+     * @param distance the distance, must be positive
+     * @return if any vertex is within the distance
+     */
+    public boolean isNearVertex(double x, double y, double distance) {
+        double distanceSquared = distance * distance;
+        boolean isNear = false;
+        for (int i = 0; i < vx.length; i++) {
+            double dx = vx[i] - x;
+            double dy = vy[i] - y;
+            isNear |= dx * dx + dy * dy < distanceSquared;
+        }
+        return isNear;
+    }
 }
@@ -0,0 +1,65 @@
+package uk.ac.ed.inf;
+
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+
+/**
+ * An immutable forth and back route, shared by every order delivered from the same restaurant.
+ * Move i goes from (fromLng[i], fromLat[i]) to (toLng[i], toLat[i]) at angle[i], 999 being a hover.
+ * The per-order flightpath records are only produced while the output is written.
+ */
+public final class Route {
+    private final double[] fromLng;
+    private final double[] fromLat;
+    private final float[] angle;
+    private final double[] toLng;
+    private final double[] toLat;
+    private final String featureJson;
+
+    /**
+     * @param nodes the moves of the route in order; they are copied, so later changes to them are not seen
+     */
+    public Route(Node[] nodes) {
+        fromLng = new double[nodes.length];
+        fromLat = new double[nodes.length];
+        angle = new float[nodes.length];
+        toLng = new double[nodes.length];
+        toLat = new double[nodes.length];
+        ArrayList<Point> routeCoordinates = new ArrayList<>();
+        for (int i = 0; i < nodes.length; i++) {
+            fromLng[i] = nodes[i].parentLnglat.lng();
+            fromLat[i] = nodes[i].parentLnglat.lat();
+            angle[i] = nodes[i].angle;
+            toLng[i] = nodes[i].lngLat.lng();
+            toLat[i] = nodes[i].lngLat.lat();
+            routeCoordinates.add(Point.fromLngLat(toLng[i], toLat[i]));
+        }
+        // Feature.toJson() drops empty properties, but every GeoJSON Feature must have the member
+        featureJson = "{\"type\":\"Feature\",\"geometry\":" + LineString.fromLngLats(routeCoordinates).toJson() +
+                ",\"properties\":{}}";
+    }
+
+    public int numberOfMoves() {
+        return angle.length;
+    }
+
+    /**
+     * Produces the flightpath record of one move of this route for an order.
+     * @param orderNo the order flown along this route
+     * @param i the index of the move
+     * @return a new record; it is not retained by the route
+     */
+    public FlightpathJson getMove(String orderNo, int i) {
+        return new FlightpathJson(orderNo, (float)fromLng[i], (float)fromLat[i], angle[i],
+                (float)toLng[i], (float)toLat[i]);
+    }
+
+    /**
+     * @return the GeoJSON Feature of the route, rendered once and written as-is for every order flown along it
+     */
+    public String getFeatureJson() {
+        return featureJson;
+    }
+}
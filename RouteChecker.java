@@ -0,0 +1,151 @@
+package uk.ac.ed.inf;
+
+import uk.ac.ed.inf.ilp.constant.SystemConstants;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+
+/**
+ * Checks the invariants every forth and back route must hold. Main calls it from an assert statement,
+ * so that the checks only run when assertions are enabled with -ea; the tests use it as their oracle.
+ * It does its own geometry rather than calling LngLatHandler, so that it can catch a fault in either.
+ */
+public final class RouteChecker {
+    // a reversed move is recomputed from its opposite angle, so allow for rounding
+    private static final double TOLERANCE = 1E-12;
+    private static final float HOVER = 999;
+
+    private RouteChecker() {
+    }
+
+    /**
+     * Checks a route built by Main from a RouteFinder path: the forth path, a hover at the destination,
+     * the forth path reversed and a final hover at the start.
+     * Prints the first broken invariant to standard error.
+     * @param route the nodes of the route
+     * @param start the start position of the route
+     * @param destination the position the forth path must end close to
+     * @param noFlyZones closed polygons no move may touch, not even between its two ends
+     * @return if the route holds every invariant
+     */
+    public static boolean isValidRoute(Node[] route, LngLat start, LngLat destination, NamedRegion[] noFlyZones) {
+        // the forth path of k nodes is followed by k + 1 nodes
+        int forthLength = (route.length - 1) / 2;
+        if (route.length < 3 || route.length % 2 == 0) {
+            System.err.println("Route has " + route.length + " nodes, not a forth and back route.");
+            return false;
+        }
+        if (!route[0].lngLat.equals(start) || !route[route.length - 1].lngLat.equals(start)) {
+            System.err.println("Route does not start and end at " + start + ".");
+            return false;
+        }
+
+        for (int i = 0; i < route.length; i++) {
+            Node node = route[i];
+            if (i > 0 && !node.parentLnglat.equals(route[i - 1].lngLat)) {
+                System.err.println("Move " + i + " does not start where move " + (i - 1) + " ends.");
+                return false;
+            }
+            if (node.angle == HOVER) {
+                if (!node.parentLnglat.equals(node.lngLat)) {
+                    System.err.println("Hover " + i + " changes position.");
+                    return false;
+                }
+                continue;
+            }
+            if (node.angle < 0 || node.angle >= 360 || node.angle % 22.5F != 0) {
+                System.err.println("Move " + i + " has an illegal angle " + node.angle + ".");
+                return false;
+            }
+            double expectedLng = node.parentLnglat.lng() +
+                    Math.cos(Math.toRadians(node.angle)) * SystemConstants.DRONE_MOVE_DISTANCE;
+            double expectedLat = node.parentLnglat.lat() +
+                    Math.sin(Math.toRadians(node.angle)) * SystemConstants.DRONE_MOVE_DISTANCE;
+            if (Math.hypot(node.lngLat.lng() - expectedLng, node.lngLat.lat() - expectedLat) > TOLERANCE) {
+                System.err.println("Move " + i + " is not one drone move at angle " + node.angle + ".");
+                return false;
+            }
+        }
+
+        // every move, hovers included, as a segment against every zone
+        for (int i = 0; i < route.length; i++) {
+            for (NamedRegion zone : noFlyZones) {
+                if (touchesZone(route[i].parentLnglat, route[i].lngLat, zone.vertices())) {
+                    System.err.println("Move " + i + " enters no-fly zone " + zone.name() + ".");
+                    return false;
+                }
+            }
+        }
+
+        LngLat endOfForthPath = route[forthLength].lngLat;
+        if (route[forthLength].angle != HOVER || Math.hypot(endOfForthPath.lng() - destination.lng(),
+                endOfForthPath.lat() - destination.lat()) >= SystemConstants.DRONE_IS_CLOSE_DISTANCE) {
+            System.err.println("Forth path does not end with a hover close to " + destination + ".");
+            return false;
+        }
+
+        // move i of the forth path is flown back as move 2k - i
+        for (int i = 1; i < forthLength; i++) {
+            Node forth = route[i];
+            Node back = route[2 * forthLength - i];
+            if (!back.parentLnglat.equals(forth.lngLat) || !back.lngLat.equals(forth.parentLnglat) ||
+                    back.angle != (forth.angle + 180F) % 360F) {
+                System.err.println("Move " + (2 * forthLength - i) + " does not reverse move " + i + ".");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the segment from one position to another has any point inside or on a closed polygon:
+     * either end is inside, or the segment meets an edge.
+     */
+    private static boolean touchesZone(LngLat from, LngLat to, LngLat[] vertices) {
+        if (isInside(from, vertices) || isInside(to, vertices)) {
+            return true;
+        }
+        for (int i = 0; i < vertices.length - 1; i++) {
+            if (segmentsMeet(from, to, vertices[i], vertices[i + 1])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // even-odd rule, casting to the right
+    private static boolean isInside(LngLat pos, LngLat[] vertices) {
+        boolean isInside = false;
+        for (int i = 0; i < vertices.length - 1; i++) {
+            LngLat a = vertices[i];
+            LngLat b = vertices[i + 1];
+            if ((a.lat() > pos.lat()) != (b.lat() > pos.lat()) &&
+                    pos.lng() < a.lng() + (pos.lat() - a.lat()) * (b.lng() - a.lng()) / (b.lat() - a.lat())) {
+                isInside = !isInside;
+            }
+        }
+        return isInside;
+    }
+
+    private static boolean segmentsMeet(LngLat p, LngLat q, LngLat a, LngLat b) {
+        int pqa = orientation(p, q, a);
+        int pqb = orientation(p, q, b);
+        int abp = orientation(a, b, p);
+        int abq = orientation(a, b, q);
+        if (pqa * pqb < 0 && abp * abq < 0) {
+            return true;    // a proper crossing
+        }
+        // an end of one segment lies on the other
+        return (pqa == 0 && isWithinBox(a, p, q)) || (pqb == 0 && isWithinBox(b, p, q)) ||
+                (abp == 0 && isWithinBox(p, a, b)) || (abq == 0 && isWithinBox(q, a, b));
+    }
+
+    // the sign of the cross product (b - a) x (c - a): 1 if c is left of a to b, -1 if right, 0 if collinear
+    private static int orientation(LngLat a, LngLat b, LngLat c) {
+        return (int) Math.signum((b.lng() - a.lng()) * (c.lat() - a.lat()) - (b.lat() - a.lat()) * (c.lng() - a.lng()));
+    }
+
+    private static boolean isWithinBox(LngLat pos, LngLat a, LngLat b) {
+        return pos.lng() >= Math.min(a.lng(), b.lng()) && pos.lng() <= Math.max(a.lng(), b.lng()) &&
+                pos.lat() >= Math.min(a.lat(), b.lat()) && pos.lat() <= Math.max(a.lat(), b.lat());
+    }
+}
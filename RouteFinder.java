@@ -14,6 +14,7 @@ public class RouteFinder {
     private ArrayList<Node> visited;
     private LngLatHandler lngLatHandler;
     public ArrayList<Float> anglesOfRoute;
+    private int numberOfExpansions;
 
     public RouteFinder(LngLat startPos, LngLat destination) {
         this.startPos = startPos;
@@ -29,6 +30,7 @@ public class RouteFinder {
         while (!unvisited.isEmpty() && !lngLatHandler.isCloseTo(unvisited.peek().lngLat, destination)) {
             Node current = unvisited.poll();
             visited.add(current);
+            numberOfExpansions++;
             assert current != null;
             for (Node neighbor : getNeighborNodes(current.lngLat)) {
                 double costOfNeighbor = current.cost + getPathWeight(neighbor.lngLat) +
@@ -50,6 +52,13 @@ public class RouteFinder {
         return constructPathAsNode();
     }
 
+    /**
+     * @return the number of nodes expanded by the last call to getRoute
+     */
+    public int getNumberOfExpansions() {
+        return numberOfExpansions;
+    }
+
     private ArrayList<Node> getNeighborNodes(LngLat node) {
         ArrayList<Node> neighborNodes = new ArrayList<>();
         float angle = 0;
@@ -0,0 +1,88 @@
+package uk.ac.ed.inf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ed.inf.ilp.constant.CentralRegionVertexOrder;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LngLatHandlerTest {
+    private final LngLatHandler lngLatHandler = new LngLatHandler();
+
+    @AfterEach
+    void clearNoFlyZones() {
+        lngLatHandler.initialiseNoFlyZones(new NamedRegion[0]);
+    }
+
+    @Test
+    void isInRegionIncludesTheEdgesOfRandomCentralRegions() {
+        Random random = new Random(5);
+        for (int i = 0; i < 500; i++) {
+            NamedRegion region = RandomGeometry.centralRegion(random, DATA.APPLETON_TOWER);
+            double left = region.vertices()[CentralRegionVertexOrder.TOP_LEFT].lng();
+            double right = region.vertices()[CentralRegionVertexOrder.TOP_RIGHT].lng();
+            double top = region.vertices()[CentralRegionVertexOrder.TOP_LEFT].lat();
+            double bottom = region.vertices()[CentralRegionVertexOrder.BOTTOM_LEFT].lat();
+
+            assertTrue(lngLatHandler.isInRegion(DATA.APPLETON_TOWER, region));
+            assertTrue(lngLatHandler.isInRegion(new LngLat(left, top), region));
+            assertTrue(lngLatHandler.isInRegion(new LngLat(right, bottom), region));
+            assertFalse(lngLatHandler.isInRegion(new LngLat(Math.nextDown(left), top), region));
+            assertFalse(lngLatHandler.isInRegion(new LngLat(right, Math.nextDown(bottom)), region));
+            for (int j = 0; j < 50; j++) {
+                LngLat pos = new LngLat(left + (right - left) * (random.nextDouble() * 1.4 - 0.2),
+                        bottom + (top - bottom) * (random.nextDouble() * 1.4 - 0.2));
+                boolean expected = pos.lng() >= left && pos.lng() <= right && pos.lat() >= bottom && pos.lat() <= top;
+                assertEquals(expected, lngLatHandler.isInRegion(pos, region), "region " + i + " at " + pos);
+            }
+        }
+    }
+
+    @Test
+    void isInNoFlyZonesMatchesReferenceWithVertexBuffer() {
+        Random random = new Random(6);
+        for (int i = 0; i < 100; i++) {
+            NamedRegion[] regions = new NamedRegion[1 + random.nextInt(5)];
+            for (int j = 0; j < regions.length; j++) {
+                LngLat centre = RandomGeometry.restaurant(random, DATA.APPLETON_TOWER, 0, 20);
+                regions[j] = RandomGeometry.polygon(random, centre, RandomGeometry.MOVE * (1 + random.nextInt(6)));
+            }
+            lngLatHandler.initialiseNoFlyZones(regions);
+            for (int j = 0; j < 200; j++) {
+                LngLat pos = RandomGeometry.restaurant(random, DATA.APPLETON_TOWER, 0, 26);
+                assertEquals(referenceIsInNoFlyZones(regions, pos), lngLatHandler.isInNoFlyZones(pos),
+                        "zones " + i + " at " + pos);
+            }
+        }
+    }
+
+    @Test
+    void everyMoveIsOneDroneMoveLong() {
+        Random random = new Random(7);
+        for (int i = 0; i < 1000; i++) {
+            LngLat start = RandomGeometry.restaurant(random, DATA.APPLETON_TOWER, 0, 100);
+            float angle = 22.5F * random.nextInt(16);
+            LngLat next = lngLatHandler.nextPosition(start, angle);
+            assertEquals(RandomGeometry.MOVE, lngLatHandler.distanceTo(start, next), 1E-12);
+        }
+    }
+
+    private boolean referenceIsInNoFlyZones(NamedRegion[] regions, LngLat pos) {
+        for (NamedRegion region : regions) {
+            double[][] xy = RandomGeometry.toArrays(region);
+            if (RandomGeometry.referenceContains(xy[0], xy[1], pos.lng(), pos.lat())) {
+                return true;
+            }
+            for (LngLat vertex : region.vertices()) {
+                if (lngLatHandler.distanceTo(pos, vertex) < RandomGeometry.MOVE * 0.8) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,131 @@
+package uk.ac.ed.inf;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NoFlyZoneTest {
+    private static final LngLat CENTRE = DATA.APPLETON_TOWER;
+
+    @Test
+    void containsMatchesReferenceOnRandomConvexPolygons() {
+        Random random = new Random(1);
+        for (int i = 0; i < 500; i++) {
+            assertMatchesReference(random, RandomGeometry.convexPolygon(random, CENTRE, randomRadius(random)), i);
+        }
+    }
+
+    @Test
+    void containsMatchesReferenceOnRandomConcavePolygons() {
+        Random random = new Random(2);
+        for (int i = 0; i < 500; i++) {
+            assertMatchesReference(random, RandomGeometry.concavePolygon(random, CENTRE, randomRadius(random)), i);
+        }
+    }
+
+    @Test
+    void positionsOnEveryEdgeOfASquareAreInside() {
+        NoFlyZone square = square(0, 0, 1, 1);
+        assertTrue(square.contains(0, 0.5));        // left
+        assertTrue(square.contains(1, 0.5));        // right
+        assertTrue(square.contains(0.5, 1));        // top
+        assertTrue(square.contains(0.5, 0));        // bottom
+        assertTrue(square.contains(0, 0));
+        assertTrue(square.contains(1, 1));
+        assertTrue(square.contains(0.5, 0.5));
+        assertFalse(square.contains(Math.nextDown(0.0), 0.5));
+        assertFalse(square.contains(Math.nextUp(1.0), 0.5));
+        assertFalse(square.contains(0.5, Math.nextUp(1.0)));
+        assertFalse(square.contains(0.5, Math.nextDown(0.0)));
+    }
+
+    @Test
+    void positionsOnTheEdgesOfRandomRectanglesAreInside() {
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            double left = CENTRE.lng() + (random.nextDouble() - 0.5) * 0.01;
+            double bottom = CENTRE.lat() + (random.nextDouble() - 0.5) * 0.01;
+            double right = left + random.nextDouble() * 0.001 + 1E-6;
+            double top = bottom + random.nextDouble() * 0.001 + 1E-6;
+            NoFlyZone rectangle = square(left, bottom, right, top);
+            double x = left + (right - left) * random.nextDouble();
+            double y = bottom + (top - bottom) * random.nextDouble();
+            assertTrue(rectangle.contains(left, y), "left edge of rectangle " + i);
+            assertTrue(rectangle.contains(right, y), "right edge of rectangle " + i);
+            assertTrue(rectangle.contains(x, top), "top edge of rectangle " + i);
+            assertTrue(rectangle.contains(x, bottom), "bottom edge of rectangle " + i);
+            assertFalse(rectangle.contains(Math.nextDown(left), y), "left of rectangle " + i);
+            assertFalse(rectangle.contains(Math.nextUp(right), y), "right of rectangle " + i);
+        }
+    }
+
+    @Test
+    void verticesAndAxisAlignedEdgesOfAConcaveZoneAreInside() {
+        // an L shape: its reflex corner is at (1, 1)
+        NoFlyZone lShape = NoFlyZone.fromRegion(new NamedRegion("L", new LngLat[]{
+                new LngLat(0, 0), new LngLat(2, 0), new LngLat(2, 1), new LngLat(1, 1),
+                new LngLat(1, 2), new LngLat(0, 2), new LngLat(0, 0)}));
+        assertTrue(lShape.contains(1, 1));
+        assertTrue(lShape.contains(1.5, 1));
+        assertTrue(lShape.contains(1, 1.5));
+        assertTrue(lShape.contains(2, 0));
+        assertTrue(lShape.contains(0, 2));
+        assertFalse(lShape.contains(1.5, 1.5));
+        assertFalse(lShape.contains(Math.nextUp(1.0), 1.5));
+    }
+
+    @Test
+    void isNearVertexMatchesDistanceTo() {
+        Random random = new Random(4);
+        LngLatHandler lngLatHandler = new LngLatHandler();
+        for (int i = 0; i < 200; i++) {
+            NamedRegion region = RandomGeometry.polygon(random, CENTRE, randomRadius(random));
+            NoFlyZone zone = NoFlyZone.fromRegion(region);
+            for (int j = 0; j < 50; j++) {
+                LngLat vertex = region.vertices()[random.nextInt(region.vertices().length)];
+                LngLat pos = new LngLat(vertex.lng() + (random.nextDouble() - 0.5) * 4 * RandomGeometry.MOVE,
+                        vertex.lat() + (random.nextDouble() - 0.5) * 4 * RandomGeometry.MOVE);
+                boolean expected = false;
+                for (LngLat v : region.vertices()) {
+                    expected |= lngLatHandler.distanceTo(pos, v) < RandomGeometry.MOVE;
+                }
+                assertEquals(expected, zone.isNearVertex(pos.lng(), pos.lat(), RandomGeometry.MOVE),
+                        "polygon " + i + " at " + pos);
+            }
+        }
+    }
+
+    private static void assertMatchesReference(Random random, NamedRegion region, int polygonIndex) {
+        NoFlyZone zone = NoFlyZone.fromRegion(region);
+        double[][] xy = RandomGeometry.toArrays(region);
+        for (int j = 0; j < 200; j++) {
+            // sample the polygon's bounding box and a margin round it
+            double x = CENTRE.lng() + (random.nextDouble() - 0.5) * 2.4 * maxAbsOffset(xy[0], CENTRE.lng());
+            double y = CENTRE.lat() + (random.nextDouble() - 0.5) * 2.4 * maxAbsOffset(xy[1], CENTRE.lat());
+            assertEquals(RandomGeometry.referenceContains(xy[0], xy[1], x, y), zone.contains(x, y),
+                    region.name() + " polygon " + polygonIndex + " at (" + x + ", " + y + ")");
+        }
+    }
+
+    private static double maxAbsOffset(double[] values, double centre) {
+        double max = 0;
+        for (double value : values) {
+            max = Math.max(max, Math.abs(value - centre));
+        }
+        return max;
+    }
+
+    private static double randomRadius(Random random) {
+        return RandomGeometry.MOVE * (0.5 + random.nextDouble() * 20);
+    }
+
+    private static NoFlyZone square(double left, double bottom, double right, double top) {
+        return NoFlyZone.fromRegion(new NamedRegion("rectangle", new LngLat[]{
+                new LngLat(left, bottom), new LngLat(right, bottom), new LngLat(right, top),
+                new LngLat(left, top), new LngLat(left, bottom)}));
+    }
+}
@@ -0,0 +1,42 @@
+package uk.ac.ed.inf;
+
+import org.junit.jupiter.api.Test;
+import uk.ac.ed.inf.ilp.constant.OrderStatus;
+import uk.ac.ed.inf.ilp.constant.OrderValidationCode;
+import uk.ac.ed.inf.ilp.data.Order;
+import uk.ac.ed.inf.ilp.data.Restaurant;
+
+import java.util.EnumSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderValidatorTest {
+
+    @Test
+    void matchesReferenceOnRandomOrders() {
+        Random random = new Random(11);
+        OrderValidator orderValidator = new OrderValidator();
+        ReferenceOrderValidator referenceValidator = new ReferenceOrderValidator();
+        Set<OrderValidationCode> codesSeen = EnumSet.noneOf(OrderValidationCode.class);
+        for (int i = 0; i < 50; i++) {
+            Restaurant[] restaurants = RandomOrders.restaurants(random, 1 + random.nextInt(6));
+            for (Order order : RandomOrders.orders(random, restaurants, 200)) {
+                orderValidator.validateOrder(order, restaurants);
+                OrderValidationCode code = order.getOrderValidationCode();
+                OrderStatus status = order.getOrderStatus();
+                referenceValidator.validateOrder(order, restaurants);
+                assertEquals(order.getOrderValidationCode(), code, "order " + order.getOrderNo() + " of set " + i);
+                assertEquals(order.getOrderStatus(), status, "order " + order.getOrderNo() + " of set " + i);
+                codesSeen.add(code);
+            }
+        }
+        // the random orders must reach every check, or the comparison proves little
+        assertTrue(codesSeen.containsAll(EnumSet.of(OrderValidationCode.NO_ERROR,
+                OrderValidationCode.PIZZA_NOT_DEFINED, OrderValidationCode.MAX_PIZZA_COUNT_EXCEEDED,
+                OrderValidationCode.CARD_NUMBER_INVALID, OrderValidationCode.EXPIRY_DATE_INVALID,
+                OrderValidationCode.CVV_INVALID, OrderValidationCode.PIZZA_FROM_MULTIPLE_RESTAURANTS,
+                OrderValidationCode.RESTAURANT_CLOSED, OrderValidationCode.TOTAL_INCORRECT)), codesSeen.toString());
+    }
+}
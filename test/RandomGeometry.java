@@ -0,0 +1,170 @@
+package uk.ac.ed.inf;
+
+import uk.ac.ed.inf.ilp.constant.CentralRegionVertexOrder;
+import uk.ac.ed.inf.ilp.constant.SystemConstants;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Generates random geometry for the tests. Every generator takes the Random to draw from,
+ * so a test with a fixed seed always sees the same shapes.
+ */
+final class RandomGeometry {
+    static final double MOVE = SystemConstants.DRONE_MOVE_DISTANCE;
+
+    private RandomGeometry() {
+    }
+
+    /**
+     * @return a closed convex polygon with 3 to 10 vertices on a circle around centre
+     */
+    static NamedRegion convexPolygon(Random random, LngLat centre, double radius) {
+        int numberOfVertices = 3 + random.nextInt(8);
+        double[] angles = new double[numberOfVertices];
+        for (int i = 0; i < numberOfVertices; i++) {
+            // one angle per sector keeps the vertices apart; points on a circle are always in convex position
+            angles[i] = (i + 0.1 + 0.8 * random.nextDouble()) * 2 * Math.PI / numberOfVertices;
+        }
+        Arrays.sort(angles);
+        double[] radii = new double[numberOfVertices];
+        Arrays.fill(radii, radius);
+        return polygon("convex", centre, angles, radii);
+    }
+
+    /**
+     * @return a closed concave star-shaped polygon with 4 to 9 points around centre
+     */
+    static NamedRegion concavePolygon(Random random, LngLat centre, double radius) {
+        int numberOfVertices = 2 * (4 + random.nextInt(6));
+        double[] angles = new double[numberOfVertices];
+        double[] radii = new double[numberOfVertices];
+        for (int i = 0; i < numberOfVertices; i++) {
+            angles[i] = (i + 0.5 * random.nextDouble()) * 2 * Math.PI / numberOfVertices;
+            // every other vertex is pulled in far enough to make a reflex corner
+            radii[i] = (i % 2 == 0) ? radius : radius * (0.2 + 0.3 * random.nextDouble());
+        }
+        return polygon("concave", centre, angles, radii);
+    }
+
+    /**
+     * @return a convex or a concave polygon, with equal chance
+     */
+    static NamedRegion polygon(Random random, LngLat centre, double radius) {
+        return random.nextBoolean() ? convexPolygon(random, centre, radius) : concavePolygon(random, centre, radius);
+    }
+
+    /**
+     * @return a rectangular central region, with its vertices in CentralRegionVertexOrder, that contains inside
+     */
+    static NamedRegion centralRegion(Random random, LngLat inside) {
+        double left = inside.lng() - MOVE * (1 + random.nextInt(40));
+        double right = inside.lng() + MOVE * (1 + random.nextInt(40));
+        double bottom = inside.lat() - MOVE * (1 + random.nextInt(40));
+        double top = inside.lat() + MOVE * (1 + random.nextInt(40));
+        LngLat[] vertices = new LngLat[4];
+        vertices[CentralRegionVertexOrder.TOP_LEFT] = new LngLat(left, top);
+        vertices[CentralRegionVertexOrder.BOTTOM_LEFT] = new LngLat(left, bottom);
+        vertices[CentralRegionVertexOrder.BOTTOM_RIGHT] = new LngLat(right, bottom);
+        vertices[CentralRegionVertexOrder.TOP_RIGHT] = new LngLat(right, top);
+        return new NamedRegion("central", vertices);
+    }
+
+    /**
+     * @return a restaurant location between minMoves and maxMoves drone moves from start, in any direction
+     */
+    static LngLat restaurant(Random random, LngLat start, int minMoves, int maxMoves) {
+        double angle = random.nextDouble() * 2 * Math.PI;
+        double distance = (minMoves + random.nextDouble() * (maxMoves - minMoves)) * MOVE;
+        return new LngLat(start.lng() + distance * Math.cos(angle), start.lat() + distance * Math.sin(angle));
+    }
+
+    /**
+     * Places zones around the straight line from start to destination, so that routes have to fly round them.
+     * Each zone keeps three moves clear of both ends and of every other zone, so that a route always exists
+     * and zones never join into a wall. Gives up placing zones after many tries, so fewer may be returned.
+     * Concave zones get their own, smaller, limit: RouteFinder's greedy search is trapped in the pocket
+     * of a large concave zone facing it and does not finish in reasonable time, so only small ones are tested.
+     * @param maxConvexRadius the largest convex zone radius, in degrees
+     * @param maxConcaveRadius the largest concave zone radius, in degrees
+     */
+    static NamedRegion[] zonesBetween(Random random, LngLat start, LngLat destination, int numberOfZones,
+                                      double maxConvexRadius, double maxConcaveRadius) {
+        ArrayList<NamedRegion> zones = new ArrayList<>();
+        ArrayList<LngLat> centres = new ArrayList<>();
+        ArrayList<Double> radii = new ArrayList<>();
+        double bandWidth = 12 * MOVE + 2 * Math.max(maxConvexRadius, maxConcaveRadius);
+        for (int attempt = 0; attempt < 10_000 && zones.size() < numberOfZones; attempt++) {
+            double along = random.nextDouble();
+            LngLat centre = new LngLat(
+                    start.lng() + (destination.lng() - start.lng()) * along + (random.nextDouble() - 0.5) * bandWidth,
+                    start.lat() + (destination.lat() - start.lat()) * along + (random.nextDouble() - 0.5) * bandWidth);
+            boolean isConvex = random.nextBoolean();
+            double maxRadius = isConvex ? maxConvexRadius : maxConcaveRadius;
+            double radius = MOVE / 2 + random.nextDouble() * (maxRadius - MOVE / 2);
+            boolean isClear = distance(centre, start) >= radius + 3 * MOVE &&
+                    distance(centre, destination) >= radius + 3 * MOVE;
+            for (int i = 0; i < centres.size(); i++) {
+                isClear &= distance(centre, centres.get(i)) >= radius + radii.get(i) + 3 * MOVE;
+            }
+            if (isClear) {
+                zones.add(isConvex ? convexPolygon(random, centre, radius) : concavePolygon(random, centre, radius));
+                centres.add(centre);
+                radii.add(radius);
+            }
+        }
+        return zones.toArray(new NamedRegion[0]);
+    }
+
+    /**
+     * @return the vertices of a closed polygon as x and y arrays, for the reference point-in-polygon test
+     */
+    static double[][] toArrays(NamedRegion region) {
+        double[][] xy = new double[2][region.vertices().length];
+        for (int i = 0; i < region.vertices().length; i++) {
+            xy[0][i] = region.vertices()[i].lng();
+            xy[1][i] = region.vertices()[i].lat();
+        }
+        return xy;
+    }
+
+    /**
+     * A plain point-in-polygon test: an odd number of edge crossings to the right, or a position on an edge.
+     * @param xs the longitudes of a closed polygon
+     * @param ys the latitudes of a closed polygon
+     */
+    static boolean referenceContains(double[] xs, double[] ys, double x, double y) {
+        boolean isInside = false;
+        for (int i = 0, j = xs.length - 2; i < xs.length - 1; j = i++) {
+            if (isOnSegment(xs[j], ys[j], xs[i], ys[i], x, y)) {
+                return true;
+            }
+            if ((ys[i] > y) != (ys[j] > y) && x < (xs[j] - xs[i]) * (y - ys[i]) / (ys[j] - ys[i]) + xs[i]) {
+                isInside = !isInside;
+            }
+        }
+        return isInside;
+    }
+
+    private static boolean isOnSegment(double ax, double ay, double bx, double by, double x, double y) {
+        return (bx - ax) * (y - ay) - (by - ay) * (x - ax) == 0 &&
+                x >= Math.min(ax, bx) && x <= Math.max(ax, bx) && y >= Math.min(ay, by) && y <= Math.max(ay, by);
+    }
+
+    private static double distance(LngLat a, LngLat b) {
+        return Math.hypot(a.lng() - b.lng(), a.lat() - b.lat());
+    }
+
+    private static NamedRegion polygon(String name, LngLat centre, double[] angles, double[] radii) {
+        LngLat[] vertices = new LngLat[angles.length + 1];
+        for (int i = 0; i < angles.length; i++) {
+            vertices[i] = new LngLat(centre.lng() + radii[i] * Math.cos(angles[i]),
+                    centre.lat() + radii[i] * Math.sin(angles[i]));
+        }
+        vertices[angles.length] = vertices[0];
+        return new NamedRegion(name, vertices);
+    }
+}
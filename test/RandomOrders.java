@@ -0,0 +1,161 @@
+package uk.ac.ed.inf;
+
+import uk.ac.ed.inf.ilp.constant.OrderStatus;
+import uk.ac.ed.inf.ilp.constant.OrderValidationCode;
+import uk.ac.ed.inf.ilp.constant.SystemConstants;
+import uk.ac.ed.inf.ilp.data.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * Generates random restaurants and orders for the tests. About half of the orders carry one random fault,
+ * some of them more than one, so that every validation code is reached.
+ */
+final class RandomOrders {
+    private static final int NUMBER_OF_FAULTS = 10;
+
+    private RandomOrders() {
+    }
+
+    /**
+     * @return restaurants round Appleton Tower, each with its own pizzas and at least one opening day
+     */
+    static Restaurant[] restaurants(Random random, int numberOfRestaurants) {
+        Restaurant[] restaurants = new Restaurant[numberOfRestaurants];
+        for (int i = 0; i < numberOfRestaurants; i++) {
+            Pizza[] menu = new Pizza[1 + random.nextInt(4)];
+            for (int j = 0; j < menu.length; j++) {
+                menu[j] = new Pizza("R" + i + ": Pizza " + j, 500 + 100 * random.nextInt(11));
+            }
+            ArrayList<DayOfWeek> openingDays = new ArrayList<>();
+            for (DayOfWeek day : DayOfWeek.values()) {
+                if (random.nextInt(3) != 0) {
+                    openingDays.add(day);
+                }
+            }
+            if (openingDays.isEmpty()) {
+                openingDays.add(DayOfWeek.of(1 + random.nextInt(7)));
+            }
+            restaurants[i] = new Restaurant("R" + i, RandomGeometry.restaurant(random, DATA.APPLETON_TOWER, 5, 40),
+                    openingDays.toArray(new DayOfWeek[0]), menu);
+        }
+        return restaurants;
+    }
+
+    static Order[] orders(Random random, Restaurant[] restaurants, int numberOfOrders) {
+        Order[] orders = new Order[numberOfOrders];
+        for (int i = 0; i < numberOfOrders; i++) {
+            orders[i] = order(random, restaurants, String.format("%08X", i));
+        }
+        return orders;
+    }
+
+    static Order order(Random random, Restaurant[] restaurants, String orderNo) {
+        Restaurant restaurant = restaurants[random.nextInt(restaurants.length)];
+        Pizza[] pizzas = new Pizza[1 + random.nextInt(SystemConstants.MAX_PIZZAS_PER_ORDER)];
+        for (int i = 0; i < pizzas.length; i++) {
+            pizzas[i] = restaurant.menu()[random.nextInt(restaurant.menu().length)];
+        }
+        DayOfWeek openingDay = restaurant.openingDays()[random.nextInt(restaurant.openingDays().length)];
+        LocalDate orderDate = LocalDate.of(2024, 1, 1).plusWeeks(random.nextInt(150)).with(openingDay);
+        String cardNumber = digits(random, 16);
+        YearMonth expiry = YearMonth.now().plusMonths(random.nextInt(60));
+        String cardExpiry = String.format("%02d/%02d", expiry.getMonthValue(), expiry.getYear() % 100);
+        String cvv = digits(random, 3);
+
+        while (random.nextInt(2) == 0) {
+            switch (random.nextInt(NUMBER_OF_FAULTS)) {
+                case 0 -> pizzas = random.nextBoolean() ? null : new Pizza[0];
+                case 1 -> {
+                    if (pizzas != null && pizzas.length > 0) {
+                        pizzas[random.nextInt(pizzas.length)] = random.nextBoolean() ? null :
+                                new Pizza("Undefined", 1000);
+                    }
+                }
+                case 2 -> {
+                    pizzas = new Pizza[SystemConstants.MAX_PIZZAS_PER_ORDER + 1 + random.nextInt(3)];
+                    for (int i = 0; i < pizzas.length; i++) {
+                        pizzas[i] = restaurant.menu()[random.nextInt(restaurant.menu().length)];
+                    }
+                }
+                case 3 -> {
+                    if (pizzas != null && pizzas.length > 0 && restaurants.length > 1) {
+                        Restaurant other = restaurants[(indexOf(restaurants, restaurant) + 1) % restaurants.length];
+                        pizzas[random.nextInt(pizzas.length)] = other.menu()[0];
+                    }
+                }
+                case 4 -> cardNumber = pick(random, null, digits(random, 15), digits(random, 17),
+                        digits(random, 15) + "X", "1234 5678 9012 3");
+                case 5 -> cardExpiry = pick(random, null, "1/30", "01/2030", "13/30", "00/30", "12-30", "ab/cd",
+                        "1a/30");
+                case 6 -> {
+                    YearMonth past = YearMonth.now().minusMonths(1 + random.nextInt(60));
+                    cardExpiry = String.format("%02d/%02d", past.getMonthValue(), past.getYear() % 100);
+                }
+                case 7 -> cvv = pick(random, null, digits(random, 2), digits(random, 4), "12a");
+                case 8 -> {
+                    DayOfWeek closedDay = closedDay(restaurant);
+                    if (closedDay != null) {
+                        orderDate = orderDate.with(closedDay);
+                    }
+                }
+                case 9 -> {
+                    // not a fault: a card expiring this month is still valid
+                    YearMonth now = YearMonth.now();
+                    cardExpiry = String.format("%02d/%02d", now.getMonthValue(), now.getYear() % 100);
+                }
+            }
+        }
+
+        int priceTotalInPence = SystemConstants.ORDER_CHARGE_IN_PENCE;
+        if (pizzas != null) {
+            for (Pizza pizza : pizzas) {
+                priceTotalInPence += (pizza == null) ? 0 : pizza.priceInPence();
+            }
+        }
+        if (random.nextInt(10) == 0) {
+            priceTotalInPence += random.nextBoolean() ? 100 : -SystemConstants.ORDER_CHARGE_IN_PENCE;
+        }
+        return new Order(orderNo, orderDate, OrderStatus.UNDEFINED, OrderValidationCode.UNDEFINED,
+                priceTotalInPence, pizzas, new CreditCardInformation(cardNumber, cardExpiry, cvv));
+    }
+
+    private static String digits(Random random, int length) {
+        StringBuilder digits = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            digits.append(random.nextInt(10));
+        }
+        return digits.toString();
+    }
+
+    @SafeVarargs
+    private static <T> T pick(Random random, T... choices) {
+        return choices[random.nextInt(choices.length)];
+    }
+
+    private static int indexOf(Restaurant[] restaurants, Restaurant restaurant) {
+        for (int i = 0; i < restaurants.length; i++) {
+            if (restaurants[i] == restaurant) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static DayOfWeek closedDay(Restaurant restaurant) {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            boolean isOpen = false;
+            for (DayOfWeek openingDay : restaurant.openingDays()) {
+                isOpen |= openingDay == day;
+            }
+            if (!isOpen) {
+                return day;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,103 @@
+package uk.ac.ed.inf;
+
+import uk.ac.ed.inf.ilp.constant.OrderStatus;
+import uk.ac.ed.inf.ilp.constant.OrderValidationCode;
+import uk.ac.ed.inf.ilp.constant.SystemConstants;
+import uk.ac.ed.inf.ilp.data.*;
+import uk.ac.ed.inf.ilp.interfaces.OrderValidation;
+
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * A plain implementation of the order validation rules, checked in the same order as OrderValidator.
+ * OrderValidator is compared against it, so that OrderValidator can be optimised safely.
+ */
+final class ReferenceOrderValidator implements OrderValidation {
+
+    @Override
+    public Order validateOrder(Order orderToValidate, Restaurant[] definedRestaurants) {
+        OrderValidationCode code = findValidationCode(orderToValidate, definedRestaurants);
+        orderToValidate.setOrderValidationCode(code);
+        orderToValidate.setOrderStatus(code == OrderValidationCode.NO_ERROR ?
+                OrderStatus.VALID_BUT_NOT_DELIVERED : OrderStatus.INVALID);
+        return orderToValidate;
+    }
+
+    private static OrderValidationCode findValidationCode(Order order, Restaurant[] definedRestaurants) {
+        Map<Pizza, Restaurant> restaurantOfPizza = new HashMap<>();
+        for (Restaurant restaurant : definedRestaurants) {
+            for (Pizza pizza : restaurant.menu()) {
+                restaurantOfPizza.putIfAbsent(pizza, restaurant);
+            }
+        }
+
+        Pizza[] pizzas = order.getPizzasInOrder();
+        if (pizzas == null || pizzas.length == 0) {
+            return OrderValidationCode.PIZZA_NOT_DEFINED;
+        }
+        for (Pizza pizza : pizzas) {
+            if (pizza == null || !restaurantOfPizza.containsKey(pizza)) {
+                return OrderValidationCode.PIZZA_NOT_DEFINED;
+            }
+        }
+        if (pizzas.length > SystemConstants.MAX_PIZZAS_PER_ORDER) {
+            return OrderValidationCode.MAX_PIZZA_COUNT_EXCEEDED;
+        }
+
+        CreditCardInformation card = order.getCreditCardInformation();
+        if (!isDigits(card.getCreditCardNumber(), 16)) {
+            return OrderValidationCode.CARD_NUMBER_INVALID;
+        }
+        if (!isUnexpired(card.getCreditCardExpiry())) {
+            return OrderValidationCode.EXPIRY_DATE_INVALID;
+        }
+        if (!isDigits(card.getCvv(), 3)) {
+            return OrderValidationCode.CVV_INVALID;
+        }
+
+        Set<Restaurant> orderedRestaurants = new HashSet<>();
+        for (Pizza pizza : pizzas) {
+            orderedRestaurants.add(restaurantOfPizza.get(pizza));
+        }
+        if (orderedRestaurants.size() > 1) {
+            return OrderValidationCode.PIZZA_FROM_MULTIPLE_RESTAURANTS;
+        }
+        Restaurant restaurant = orderedRestaurants.iterator().next();
+        if (!Arrays.asList(restaurant.openingDays()).contains(order.getOrderDate().getDayOfWeek())) {
+            return OrderValidationCode.RESTAURANT_CLOSED;
+        }
+
+        int priceTotalInPence = SystemConstants.ORDER_CHARGE_IN_PENCE;
+        for (Pizza pizza : pizzas) {
+            priceTotalInPence += pizza.priceInPence();
+        }
+        if (order.getPriceTotalInPence() != priceTotalInPence) {
+            return OrderValidationCode.TOTAL_INCORRECT;
+        }
+        return OrderValidationCode.NO_ERROR;
+    }
+
+    private static boolean isDigits(String s, int length) {
+        if (s == null || s.length() != length) {
+            return false;
+        }
+        for (char c : s.toCharArray()) {
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // MM/YY, valid up to the end of its month
+    private static boolean isUnexpired(String expiry) {
+        if (expiry == null || expiry.length() != 5 || expiry.charAt(2) != '/' ||
+                !isDigits(expiry.substring(0, 2), 2) || !isDigits(expiry.substring(3), 2)) {
+            return false;
+        }
+        int month = Integer.parseInt(expiry.substring(0, 2));
+        int year = 2000 + Integer.parseInt(expiry.substring(3));
+        return month >= 1 && month <= 12 && !YearMonth.of(year, month).isBefore(YearMonth.now());
+    }
+}
@@ -0,0 +1,124 @@
+package uk.ac.ed.inf;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mapbox.geojson.*;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import uk.ac.ed.inf.ilp.constant.OrderStatus;
+import uk.ac.ed.inf.ilp.constant.OrderValidationCode;
+import uk.ac.ed.inf.ilp.data.*;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compares the result files with those of the writer Main used before routes were shared and streamed.
+ */
+class ResultFilesTest {
+    private static final String ORDER_DATE = "2025-01-06";
+
+    @TempDir
+    File dir;
+
+    @Test
+    void resultFilesMatchTheBaselineWriter() throws IOException {
+        Node[] nodes = fixedRoute();
+        Order[] orders = {
+                order("00000001", OrderStatus.DELIVERED, OrderValidationCode.NO_ERROR),
+                order("00000002", OrderStatus.INVALID, OrderValidationCode.CVV_INVALID),
+                order("00000003", OrderStatus.DELIVERED, OrderValidationCode.NO_ERROR)};
+        Route route = new Route(nodes);
+        Node[][] baselinePaths = {nodes, null, nodes};
+
+        File baselineDir = new File(dir, "baseline");
+        File streamedDir = new File(dir, "streamed");
+        writeBaselineResultFiles(baselineDir, orders, baselinePaths);
+        Main.writeResultFiles(streamedDir, ORDER_DATE, orders, new Route[]{route, null, route});
+
+        assertArrayEquals(read(baselineDir, "flightpath-"), read(streamedDir, "flightpath-"));
+        assertArrayEquals(read(baselineDir, "deliveries-"), read(streamedDir, "deliveries-"));
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonNode baselineGeojson = mapper.readTree(new File(baselineDir, "drone-" + ORDER_DATE + ".geojson"));
+        JsonNode streamedGeojson = mapper.readTree(new File(streamedDir, "drone-" + ORDER_DATE + ".geojson"));
+        assertEquals(baselineGeojson, streamedGeojson);
+        assertEquals(2, streamedGeojson.get("features").size());
+        for (JsonNode feature : streamedGeojson.get("features")) {
+            // RFC 7946 section 3.2: every Feature has a properties member
+            assertTrue(feature.has("properties") && feature.get("properties").isObject(), feature.toString());
+        }
+    }
+
+    private static byte[] read(File dir, String prefix) throws IOException {
+        return Files.readAllBytes(new File(dir, prefix + ORDER_DATE + ".json").toPath());
+    }
+
+    private static Node[] fixedRoute() {
+        LngLatHandler lngLatHandler = new LngLatHandler();
+        ArrayList<Node> forthPath = new ArrayList<>();
+        LngLat pos = DATA.APPLETON_TOWER;
+        forthPath.add(new Node(pos, 999, pos, 0));
+        for (float angle : new float[]{0, 22.5F, 45, 90, 337.5F, 180, 270}) {
+            LngLat next = lngLatHandler.nextPosition(pos, angle);
+            forthPath.add(new Node(pos, angle, next, 0));
+            pos = next;
+        }
+        return Main.getForthAndBackRoute(forthPath);
+    }
+
+    private static Order order(String orderNo, OrderStatus status, OrderValidationCode code) {
+        return new Order(orderNo, LocalDate.parse(ORDER_DATE), status, code, 1100,
+                new Pizza[]{new Pizza("Margarita", 1000)},
+                new CreditCardInformation("1234567812345678", "12/30", "123"));
+    }
+
+    // the result file writer as it was in Main before routes were shared and streamed
+    private static void writeBaselineResultFiles(File dir, Order[] orders, Node[][] paths) throws IOException {
+        dir.mkdir();
+        List<Feature> listOfRoutes = new ArrayList<>();
+        for (Node[] nodes : paths) {
+            if (nodes != null) {
+                ArrayList<Point> routeCoordinates = new ArrayList<>();
+                for (Node node : nodes) {
+                    routeCoordinates.add(Point.fromLngLat(node.lngLat.lng(), node.lngLat.lat()));
+                }
+                listOfRoutes.add(Feature.fromGeometry(LineString.fromLngLats(routeCoordinates)));
+            }
+        }
+        BufferedWriter geojsonWriter = new BufferedWriter(new FileWriter(new File(dir, "drone-" + ORDER_DATE + ".geojson")));
+        geojsonWriter.write(FeatureCollection.fromFeatures(listOfRoutes).toJson());
+        geojsonWriter.close();
+
+        DeliveriesJson[] deliveriesJsons = new DeliveriesJson[orders.length];
+        for (int i = 0; i < deliveriesJsons.length; i++) {
+            deliveriesJsons[i] = new DeliveriesJson(orders[i].getOrderNo(), orders[i].getOrderStatus(),
+                    orders[i].getOrderValidationCode(), orders[i].getPriceTotalInPence());
+        }
+        BufferedWriter deliveriesWriter = new BufferedWriter(new FileWriter(new File(dir, "deliveries-" + ORDER_DATE + ".json")));
+        deliveriesWriter.write(new ObjectMapper().writer().writeValueAsString(deliveriesJsons));
+        deliveriesWriter.close();
+
+        List<FlightpathJson[]> flightpathJsons = new ArrayList<>();
+        for (int i = 0; i < orders.length; i++) {
+            if (orders[i].getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
+                FlightpathJson[] moves = new FlightpathJson[paths[i].length];
+                for (int j = 0; j < paths[i].length; j++) {
+                    moves[j] = new FlightpathJson(orders[i].getOrderNo(),
+                            (float) paths[i][j].parentLnglat.lng(), (float) paths[i][j].parentLnglat.lat(),
+                            paths[i][j].angle,
+                            (float) paths[i][j].lngLat.lng(), (float) paths[i][j].lngLat.lat());
+                }
+                flightpathJsons.add(moves);
+            }
+        }
+        BufferedWriter flightPathWriter = new BufferedWriter(new FileWriter(new File(dir, "flightpath-" + ORDER_DATE + ".json")));
+        flightPathWriter.write(new ObjectMapper().writer().writeValueAsString(flightpathJsons.toArray(new FlightpathJson[0][])));
+        flightPathWriter.close();
+    }
+}
@@ -0,0 +1,105 @@
+package uk.ac.ed.inf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteFinderTest {
+    private static final LngLat START = DATA.APPLETON_TOWER;
+    private static final NamedRegion[] NO_ZONES = new NamedRegion[0];
+
+    @AfterEach
+    void clearNoFlyZones() {
+        new LngLatHandler().initialiseNoFlyZones(new NamedRegion[0]);
+    }
+
+    @Test
+    void routesHoldEveryInvariantAroundRandomZones() {
+        Random random = new Random(8);
+        for (int i = 0; i < 100; i++) {
+            LngLat restaurant = RandomGeometry.restaurant(random, START, 5, 30);
+            NamedRegion[] zones = RandomGeometry.zonesBetween(random, START, restaurant, random.nextInt(5),
+                    10 * RandomGeometry.MOVE, 1.5 * RandomGeometry.MOVE);
+            new LngLatHandler().initialiseNoFlyZones(zones);
+            Node[] route = Main.getForthAndBackRoute(new RouteFinder(START, restaurant).getRoute());
+            assertTrue(RouteChecker.isValidRoute(route, START, restaurant, zones),
+                    "scenario " + i + " to " + restaurant + " round " + zones.length + " zone(s)");
+        }
+    }
+
+    @Test
+    void routesWithoutZonesExpandOnlyTheNodesOnThePath() {
+        Random random = new Random(9);
+        new LngLatHandler().initialiseNoFlyZones(NO_ZONES);
+        for (int i = 0; i < 100; i++) {
+            LngLat restaurant = RandomGeometry.restaurant(random, START, 1, 60);
+            RouteFinder router = new RouteFinder(START, restaurant);
+            ArrayList<Node> forthPath = router.getRoute();
+            assertTrue(RouteChecker.isValidRoute(Main.getForthAndBackRoute(forthPath), START, restaurant, NO_ZONES),
+                    "scenario " + i);
+            assertEquals(forthPath.size() - 1, router.getNumberOfExpansions(), "scenario " + i);
+        }
+    }
+
+    @Test
+    void routesFromAppletonTowerAvoidTheRealZones() {
+        new LngLatHandler().initialiseNoFlyZones(EdinburghFixture.NO_FLY_ZONES);
+        for (LngLat restaurant : EdinburghFixture.RESTAURANTS) {
+            Node[] route = Main.getForthAndBackRoute(new RouteFinder(START, restaurant).getRoute());
+            assertTrue(RouteChecker.isValidRoute(route, START, restaurant, EdinburghFixture.NO_FLY_ZONES),
+                    "route to " + restaurant);
+        }
+    }
+
+    @Test
+    void checkerRejectsBrokenRoutes() {
+        LngLat restaurant = new LngLat(START.lng() + 10 * RandomGeometry.MOVE, START.lat() + 3 * RandomGeometry.MOVE);
+        new LngLatHandler().initialiseNoFlyZones(NO_ZONES);
+        ArrayList<Node> forthPath = new RouteFinder(START, restaurant).getRoute();
+        assertTrue(RouteChecker.isValidRoute(Main.getForthAndBackRoute(forthPath), START, restaurant, NO_ZONES));
+
+        Node[] illegalAngle = Main.getForthAndBackRoute(forthPath);
+        illegalAngle[2] = new Node(illegalAngle[2].parentLnglat, 10, illegalAngle[2].lngLat, 0);
+        assertFalse(RouteChecker.isValidRoute(illegalAngle, START, restaurant, NO_ZONES));
+
+        Node[] wrongWayBack = Main.getForthAndBackRoute(forthPath);
+        int lastBackMove = wrongWayBack.length - 2;
+        wrongWayBack[lastBackMove] = new Node(wrongWayBack[lastBackMove].parentLnglat,
+                (wrongWayBack[lastBackMove].angle + 22.5F) % 360F,
+                new LngLatHandler().nextPosition(wrongWayBack[lastBackMove].parentLnglat,
+                        (wrongWayBack[lastBackMove].angle + 22.5F) % 360F), 0);
+        assertFalse(RouteChecker.isValidRoute(wrongWayBack, START, restaurant, NO_ZONES));
+
+        LngLat elsewhere = new LngLat(restaurant.lng() + 5 * RandomGeometry.MOVE, restaurant.lat());
+        assertFalse(RouteChecker.isValidRoute(Main.getForthAndBackRoute(forthPath), START, elsewhere, NO_ZONES));
+
+        // a zone round a position on the path, found after the route was
+        LngLat onPath = forthPath.get(forthPath.size() / 2).lngLat;
+        NamedRegion[] zoneOnPath = {RandomGeometry.convexPolygon(new Random(10), onPath, RandomGeometry.MOVE / 4)};
+        assertFalse(RouteChecker.isValidRoute(Main.getForthAndBackRoute(forthPath), START, restaurant, zoneOnPath));
+
+        // a thin zone crossed by a move, with every position of the route outside it
+        LngLat from = forthPath.get(1).parentLnglat;
+        LngLat to = forthPath.get(1).lngLat;
+        double midLng = (from.lng() + to.lng()) / 2;
+        double midLat = (from.lat() + to.lat()) / 2;
+        double width = RandomGeometry.MOVE / 100;
+        NamedRegion[] zoneAcrossMove = {new NamedRegion("wall", new LngLat[]{
+                new LngLat(midLng - width, midLat - RandomGeometry.MOVE / 4),
+                new LngLat(midLng + width, midLat - RandomGeometry.MOVE / 4),
+                new LngLat(midLng + width, midLat + RandomGeometry.MOVE / 4),
+                new LngLat(midLng - width, midLat + RandomGeometry.MOVE / 4),
+                new LngLat(midLng - width, midLat - RandomGeometry.MOVE / 4)})};
+        double[][] wall = RandomGeometry.toArrays(zoneAcrossMove[0]);
+        for (Node node : forthPath) {
+            assertFalse(RandomGeometry.referenceContains(wall[0], wall[1], node.lngLat.lng(), node.lngLat.lat()));
+        }
+        assertFalse(RouteChecker.isValidRoute(Main.getForthAndBackRoute(forthPath), START, restaurant, zoneAcrossMove));
+    }
+}
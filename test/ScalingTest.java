@@ -0,0 +1,119 @@
+package uk.ac.ed.inf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import uk.ac.ed.inf.ilp.constant.OrderStatus;
+import uk.ac.ed.inf.ilp.constant.OrderValidationCode;
+import uk.ac.ed.inf.ilp.data.LngLat;
+import uk.ac.ed.inf.ilp.data.NamedRegion;
+import uk.ac.ed.inf.ilp.data.Order;
+import uk.ac.ed.inf.ilp.data.Restaurant;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the planner stays within fixed budgets as the number of zones and orders grows.
+ * The budgets are several times what the current implementation needs, so they catch regressions
+ * in complexity rather than noise in timing.
+ */
+class ScalingTest {
+    private static final LngLat START = DATA.APPLETON_TOWER;
+    private static final int[] NUMBERS_OF_ZONES = {0, 1, 2, 4, 8};
+    private static final int ROUTES_PER_NUMBER_OF_ZONES = 20;
+    // RouteFinder checks its open and closed lists linearly, so each expansion costs more as the search grows
+    private static final int EXPANSION_BUDGET_PER_ROUTE = 2000;
+    private static final Duration ROUTE_BUDGET = Duration.ofSeconds(20);
+    /*
+     * A flat side of a zone across the direct line is a dead end the greedy search has to fill before it
+     * goes round: a 5 move zone took 1,500 expansions and some 6 move zones did not finish in 10 seconds.
+     * Until RouteFinder handles that, the budget is only held for zones below that size;
+     * RouteFinderTest still checks routes round convex zones of up to 10 moves.
+     */
+    private static final double MAX_CONVEX_RADIUS = 4 * RandomGeometry.MOVE;
+    private static final double MAX_CONCAVE_RADIUS = 1.5 * RandomGeometry.MOVE;
+    private static final int[] NUMBERS_OF_ORDERS = {1_000, 10_000, 100_000};
+    // per 1000 orders, on top of a fixed second for warm-up
+    private static final long ORDER_BUDGET_MILLIS_PER_THOUSAND = 100;
+
+    @AfterEach
+    void clearNoFlyZones() {
+        new LngLatHandler().initialiseNoFlyZones(new NamedRegion[0]);
+    }
+
+    @Test
+    void routeExpansionsStayWithinBudgetAsZonesGrow() {
+        assertTimeoutPreemptively(ROUTE_BUDGET, () -> {
+            Random random = new Random(12);
+            for (int numberOfZones : NUMBERS_OF_ZONES) {
+                for (int i = 0; i < ROUTES_PER_NUMBER_OF_ZONES; i++) {
+                    LngLat restaurant = RandomGeometry.restaurant(random, START, 10, 40);
+                    new LngLatHandler().initialiseNoFlyZones(RandomGeometry.zonesBetween(random, START, restaurant,
+                            numberOfZones, MAX_CONVEX_RADIUS, MAX_CONCAVE_RADIUS));
+                    RouteFinder router = new RouteFinder(START, restaurant);
+                    router.getRoute();
+                    assertTrue(router.getNumberOfExpansions() <= EXPANSION_BUDGET_PER_ROUTE,
+                            router.getNumberOfExpansions() + " expansions with " + numberOfZones + " zone(s), route " + i);
+                }
+            }
+        });
+    }
+
+    @Test
+    void noFlyZoneChecksStayWithinBudgetAsZonesGrow() {
+        Random random = new Random(13);
+        LngLatHandler lngLatHandler = new LngLatHandler();
+        LngLat[] positions = new LngLat[100_000];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = RandomGeometry.restaurant(random, START, 0, 100);
+        }
+        for (int numberOfZones = 1; numberOfZones <= 256; numberOfZones *= 4) {
+            NamedRegion[] zones = new NamedRegion[numberOfZones];
+            for (int i = 0; i < numberOfZones; i++) {
+                zones[i] = RandomGeometry.polygon(random, RandomGeometry.restaurant(random, START, 0, 100),
+                        RandomGeometry.MOVE * (1 + random.nextInt(10)));
+            }
+            lngLatHandler.initialiseNoFlyZones(zones);
+            // half a microsecond per zone and position, several times what the containment kernel needs
+            Duration budget = Duration.ofMillis(1000 + (long) numberOfZones * positions.length / 2000);
+            assertTimeoutPreemptively(budget, () -> {
+                for (LngLat pos : positions) {
+                    lngLatHandler.isInNoFlyZones(pos);
+                }
+            }, numberOfZones + " zone(s)");
+        }
+    }
+
+    @Test
+    void validationAndAssignmentStayWithinBudgetAsOrdersGrow() {
+        Random random = new Random(14);
+        Restaurant[] restaurants = RandomOrders.restaurants(random, 8);
+        DATA.RESTAURANTS = restaurants;
+        ArrayList<Restaurant> restaurantList = new ArrayList<>(Arrays.asList(restaurants));
+        // the routes themselves do not matter here, only that every restaurant has one
+        Route[] routes = new Route[restaurants.length];
+        Arrays.fill(routes, new Route(new Node[]{new Node(START, 999, START, 0)}));
+        OrderValidator orderValidator = new OrderValidator();
+
+        for (int numberOfOrders : NUMBERS_OF_ORDERS) {
+            Order[] orders = RandomOrders.orders(random, restaurants, numberOfOrders);
+            Duration budget = Duration.ofMillis(1000 + ORDER_BUDGET_MILLIS_PER_THOUSAND * numberOfOrders / 1000);
+            Route[] paths = assertTimeoutPreemptively(budget, () -> {
+                for (Order order : orders) {
+                    orderValidator.validateOrder(order, restaurants);
+                    if (order.getOrderValidationCode().equals(OrderValidationCode.NO_ERROR)) {
+                        order.setOrderStatus(OrderStatus.DELIVERED);
+                    }
+                }
+                return Main.assignPaths(orders, restaurantList, routes);
+            }, numberOfOrders + " orders");
+            for (int i = 0; i < orders.length; i++) {
+                assertEquals(orders[i].getOrderValidationCode().equals(OrderValidationCode.NO_ERROR), paths[i] != null);
+            }
+        }
+    }
+}